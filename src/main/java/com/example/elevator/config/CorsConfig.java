@@ -17,6 +17,9 @@ public class CorsConfig {
     @Value("${elevator.cors.allowed-headers}")
     private String allowedHeaders;
 
+    @Value("${elevator.cors.exposed-headers}")
+    private String exposedHeaders;
+
     @Value("${elevator.cors.allow-credentials}")
     private boolean allowCredentials;
 
@@ -32,6 +35,7 @@ public class CorsConfig {
                         .allowedOrigins(allowedOrigins)
                         .allowedMethods(allowedMethods)
                         .allowedHeaders(allowedHeaders)
+                        .exposedHeaders(exposedHeaders)
                         .allowCredentials(allowCredentials);
             }
         };
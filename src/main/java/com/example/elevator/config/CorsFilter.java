@@ -1,6 +1,7 @@
 package com.example.elevator.config;
 
 import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -19,13 +20,36 @@ public class CorsFilter implements Filter {
     @Value("${elevator.cors.allowed-headers}")
     private String allowedHeaders;
 
+    @Value("${elevator.cors.exposed-headers}")
+    private String exposedHeaders;
+
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
         httpResponse.setHeader("Access-Control-Allow-Origin", allowedOrigins);
         httpResponse.setHeader("Access-Control-Allow-Methods", allowedMethods);
-        httpResponse.setHeader("Access-Control-Allow-Headers", allowedHeaders);
+        httpResponse.setHeader("Access-Control-Allow-Headers", getAllowedHeaders(httpRequest, httpResponse));
+        httpResponse.setHeader("Access-Control-Expose-Headers", exposedHeaders);
         httpResponse.setHeader("Access-Control-Allow-Credentials", "true");
         chain.doFilter(request, response);
     }
+
+    /**
+     * Resolves the Access-Control-Allow-Headers value of the response.
+     * Browsers read a literal "*" as a header name on credentialed requests, so a wildcard configuration
+     * echoes the headers requested in the preflight instead (e.g. If-None-Match for conditional polls).
+     *
+     * @param request  The incoming request.
+     * @param response The outgoing response, which is marked to vary on the requested headers when echoing.
+     * @return The allowed headers to send.
+     */
+    private String getAllowedHeaders(HttpServletRequest request, HttpServletResponse response) {
+        String requestedHeaders = request.getHeader("Access-Control-Request-Headers");
+        if (!"*".equals(allowedHeaders.trim()) || requestedHeaders == null || requestedHeaders.isBlank()) {
+            return allowedHeaders;
+        }
+        response.addHeader("Vary", "Access-Control-Request-Headers");
+        return requestedHeaders;
+    }
 }
@@ -0,0 +1,31 @@
+package com.example.elevator.config;
+
+import jakarta.servlet.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Stamps the {@link System#nanoTime()} at which a request entered the filter chain,
+ * so hall call telemetry can tell the time spent in HTTP handling apart from the rest of the call.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTimingFilter implements Filter {
+
+    public static final String REQUEST_STARTED_AT_ATTRIBUTE = "com.example.elevator.config.RequestTimingFilter.startedAt";
+
+    @Value("${elevator.telemetry.enabled}")
+    private boolean telemetryEnabled;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        if (telemetryEnabled) {
+            request.setAttribute(REQUEST_STARTED_AT_ATTRIBUTE, System.nanoTime());
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.elevator.constants;
+
+public enum CallPhase {
+    HTTP, DISPATCH, QUEUE, TRAVEL, TOTAL
+}
@@ -1,13 +1,25 @@
 package com.example.elevator.controllers;
 
+import com.example.elevator.config.RequestTimingFilter;
+import com.example.elevator.constants.CallPhase;
 import com.example.elevator.constants.ElevatorDirection;
 import com.example.elevator.models.Elevator;
+import com.example.elevator.models.ElevatorResponseCache;
+import com.example.elevator.models.ElevatorSnapshot;
 import com.example.elevator.services.ElevatorService;
+import com.example.elevator.telemetry.HallCallTracker;
+import com.example.elevator.telemetry.PhaseLatency;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/elevators")
 @CrossOrigin(origins = "$elevator.cors.allowed-origins")
@@ -15,20 +27,38 @@ public class ElevatorController {
     @Autowired
     private ElevatorService elevatorService;
 
+    @Autowired
+    private HallCallTracker hallCallTracker;
+
+    @Autowired
+    private ElevatorResponseCache elevatorResponseCache;
+
     @GetMapping("/{id}")
-    public Elevator getElevator(@PathVariable int id) {
+    public ResponseEntity<byte[]> getElevator(@PathVariable int id, WebRequest webRequest) {
         try {
-            return elevatorService.getElevator(id);
+            Elevator elevator = elevatorService.getElevator(id);
+            long version = elevator.getVersion();
+            String eTag = elevatorResponseCache.getElevatorETag(id, version);
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(elevatorResponseCache.getElevatorBody(elevator, version));
         } catch (IllegalArgumentException e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
     }
 
     @PostMapping("/{id}/request")
-    public void requestElevator(@PathVariable int id, @RequestParam int floor, @RequestParam ElevatorDirection direction) {
+    public void requestElevator(@PathVariable int id, @RequestParam int floor, @RequestParam ElevatorDirection direction,
+                                @RequestAttribute(name = RequestTimingFilter.REQUEST_STARTED_AT_ATTRIBUTE, required = false) Long requestStartedAt) {
+        hallCallTracker.received(id, floor, direction, requestStartedAt == null ? 0 : requestStartedAt);
         try {
             elevatorService.requestElevator(id, floor, direction);
         } catch (IllegalArgumentException e) {
+            hallCallTracker.discard(id, floor);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
     }
@@ -69,8 +99,31 @@ public class ElevatorController {
         }
     }
 
+    @GetMapping("/{id}/history")
+    public List<ElevatorSnapshot> getElevatorHistory(@PathVariable int id,
+                                                     @RequestParam(required = false) Long from,
+                                                     @RequestParam(required = false) Long to) {
+        try {
+            return elevatorService.getElevatorHistory(id,
+                    from == null ? 0 : from,
+                    to == null ? Long.MAX_VALUE : to);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     @GetMapping("/count")
-    public int getNumberOfElevators() {
-        return elevatorService.getNumberOfElevators();
+    public ResponseEntity<Integer> getNumberOfElevators(WebRequest webRequest) {
+        int count = elevatorService.getNumberOfElevators();
+        String eTag = elevatorResponseCache.getCountETag(count);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(count);
+    }
+
+    @GetMapping("/latency")
+    public Map<CallPhase, PhaseLatency> getCallLatencies() {
+        return hallCallTracker.getLatencies();
     }
 }
@@ -2,8 +2,10 @@ package com.example.elevator.models;
 
 import com.example.elevator.constants.AppConstants;
 import com.example.elevator.constants.ElevatorDirection;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class Elevator {
     // The unique identifier for the elevator.
@@ -21,12 +23,17 @@ public class Elevator {
     // The queue of requested floors for the elevator.
     private final ElevatorQueue elevatorQueue;
 
+    // A monotonic counter bumped by every mutator, used to detect unchanged state between polls.
+    // It is carried by the ETag rather than the serialized elevator.
+    private final AtomicLong version;
+
     public Elevator(int id) {
         this.id = id;
         this.currentFloor = 1;
         this.direction = ElevatorDirection.NONE;
         this.isDoorOpen = false;
         this.elevatorQueue = new ElevatorQueue();
+        this.version = new AtomicLong();
     }
 
     public int getId() {
@@ -35,6 +42,7 @@ public class Elevator {
 
     public void setId(int id) {
         this.id = id;
+        incrementVersion();
     }
 
     public int getCurrentFloor() {
@@ -44,6 +52,7 @@ public class Elevator {
     public void setCurrentFloor(int floor) {
         validateFloor(floor);
         this.currentFloor = floor;
+        incrementVersion();
     }
 
     public ElevatorDirection getDirection() {
@@ -61,6 +70,7 @@ public class Elevator {
 
     public void setDoorOpen(boolean isDoorOpen) {
         this.isDoorOpen = isDoorOpen;
+        incrementVersion();
     }
 
     public List<ElevatorQueueItem> getQueue() {
@@ -69,27 +79,46 @@ public class Elevator {
 
     public void setQueue(List<ElevatorQueueItem> queue) {
         elevatorQueue.setQueue(queue);
+        incrementVersion();
     }
 
     public void removeQueue(ElevatorQueueItem queueItem) {
         elevatorQueue.removeQueue(queueItem);
+        incrementVersion();
     }
 
     public void clearQueue() {
         elevatorQueue.clearQueue();
+        incrementVersion();
     }
 
     public void addToQueue(int floor, ElevatorDirection direction) {
         validateFloor(floor);
         elevatorQueue.addToQueue(floor, direction);
+        incrementVersion();
     }
 
     public void removeFirstQueue() {
         elevatorQueue.removeFirstQueue();
+        incrementVersion();
     }
 
     public void sortQueue() {
         elevatorQueue.sortQueue(this.direction);
+        incrementVersion();
+    }
+
+    @JsonIgnore
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Bumps the version after a mutation. Every mutator calls this once its change is in place,
+     * so a version read before serializing never labels state older than itself.
+     */
+    private void incrementVersion() {
+        version.incrementAndGet();
     }
 
     /**
@@ -98,7 +127,7 @@ public class Elevator {
      * @param floor The floor number to validate.
      * @throws IllegalArgumentException If the floor number is invalid.
      */
-    private void validateFloor(int floor) {
+    public static void validateFloor(int floor) {
         if (floor < AppConstants.MIN_FLOOR_NUMBER || floor > AppConstants.MAX_FLOOR_NUMBER) {
             throw new IllegalArgumentException("Floor must be between 1 and 10.");
         }
@@ -111,6 +140,7 @@ public class Elevator {
                 "direction=" + direction +
                 "isDoorOpen=" + isDoorOpen +
                 ", queueManager=" + elevatorQueue +
+                ", version=" + version +
                 '}';
     }
 }
@@ -0,0 +1,207 @@
+package com.example.elevator.models;
+
+import com.example.elevator.constants.ElevatorDirection;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The state history of a single elevator, kept in two fixed-size off-heap ring buffers.
+ * The recent ring holds every state change. When it is full, its oldest entry is moved to the
+ * downsampled ring, which keeps only the last state of each resolution bucket.
+ * Timestamps grow monotonically in both rings, so range queries binary search for their start.
+ */
+public class ElevatorHistory {
+
+    private static final ElevatorDirection[] DIRECTIONS = ElevatorDirection.values();
+
+    // The ring holding every recent state change.
+    private final HistoryRing recent;
+
+    // The ring holding one state per resolution bucket for data evicted from the recent ring.
+    private final HistoryRing downsampled;
+
+    // The width of a downsampling bucket, in milliseconds.
+    private final long resolutionMillis;
+
+    public ElevatorHistory(int capacity, int downsampledCapacity, long resolutionMillis) {
+        this.recent = new HistoryRing(capacity);
+        this.downsampled = new HistoryRing(downsampledCapacity);
+        this.resolutionMillis = resolutionMillis;
+    }
+
+    /**
+     * Records the state of the elevator if it differs from the last recorded state.
+     *
+     * @param timestamp The current time in milliseconds since the epoch.
+     * @param elevator  The elevator to record.
+     */
+    public synchronized void record(long timestamp, Elevator elevator) {
+        int floor = elevator.getCurrentFloor();
+        byte direction = (byte) elevator.getDirection().ordinal();
+        byte doorOpen = (byte) (elevator.isDoorOpen() ? 1 : 0);
+        if (recent.size() > 0) {
+            int last = recent.size() - 1;
+            if (recent.floorAt(last) == floor && recent.directionAt(last) == direction && recent.doorOpenAt(last) == doorOpen) {
+                return;
+            }
+            // Keep timestamps monotonic even if the wall clock steps back.
+            timestamp = Math.max(timestamp, recent.timestampAt(last));
+        }
+
+        if (recent.isFull()) {
+            downsample();
+        }
+        recent.append(timestamp, floor, direction, doorOpen);
+    }
+
+    /**
+     * Returns the recorded states with a timestamp between {@code from} and {@code to}, both inclusive, oldest first.
+     * The state the elevator was in at {@code from} is always included, even if it was recorded earlier.
+     *
+     * @param from The start of the range in milliseconds since the epoch.
+     * @param to   The end of the range in milliseconds since the epoch.
+     * @return The recorded states within the range.
+     */
+    public synchronized List<ElevatorSnapshot> getRange(long from, long to) {
+        List<ElevatorSnapshot> snapshots = new ArrayList<>();
+        // The downsampled ring only holds states older than the recent ring, so it is needed
+        // only when the recent ring does not know the state at 'from' yet.
+        if (recent.size() == 0 || recent.timestampAt(0) > from) {
+            collect(downsampled, from, to, snapshots);
+        }
+        collect(recent, from, to, snapshots);
+        return snapshots;
+    }
+
+    /**
+     * Moves the oldest entry of the recent ring into the downsampled ring,
+     * replacing the last downsampled entry if both fall into the same bucket.
+     */
+    private void downsample() {
+        long timestamp = recent.timestampAt(0);
+        int floor = recent.floorAt(0);
+        byte direction = recent.directionAt(0);
+        byte doorOpen = recent.doorOpenAt(0);
+        recent.removeFirst();
+
+        int last = downsampled.size() - 1;
+        if (last >= 0 && downsampled.timestampAt(last) / resolutionMillis == timestamp / resolutionMillis) {
+            downsampled.set(last, timestamp, floor, direction, doorOpen);
+        } else {
+            downsampled.append(timestamp, floor, direction, doorOpen);
+        }
+    }
+
+    private static void collect(HistoryRing ring, long from, long to, List<ElevatorSnapshot> snapshots) {
+        int start = ring.firstIndexAtOrAfter(from);
+        if (start > 0 && (start == ring.size() || ring.timestampAt(start) > from)) {
+            // Step back to the state the elevator was already in at 'from'.
+            start--;
+        }
+        for (int i = start; i < ring.size(); i++) {
+            long timestamp = ring.timestampAt(i);
+            if (timestamp > to) {
+                break;
+            }
+            snapshots.add(new ElevatorSnapshot(timestamp, ring.floorAt(i),
+                    DIRECTIONS[ring.directionAt(i)], ring.doorOpenAt(i) == 1));
+        }
+    }
+
+    /**
+     * A fixed-size ring of history entries in a direct byte buffer, addressed by logical index (0 is the oldest).
+     * Each entry is a timestamp (8 bytes), a floor (4 bytes), a direction ordinal (1 byte) and a door flag (1 byte).
+     */
+    static class HistoryRing {
+
+        private static final int ENTRY_BYTES = 16;
+        private static final int FLOOR_OFFSET = 8;
+        private static final int DIRECTION_OFFSET = 12;
+        private static final int DOOR_OFFSET = 13;
+
+        private final ByteBuffer buffer;
+        private final int capacity;
+
+        // The physical slot of the oldest entry, and the number of entries in use.
+        private int start;
+        private int size;
+
+        HistoryRing(int capacity) {
+            this.buffer = ByteBuffer.allocateDirect(capacity * ENTRY_BYTES);
+            this.capacity = capacity;
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isFull() {
+            return size == capacity;
+        }
+
+        long timestampAt(int index) {
+            return buffer.getLong(offset(index));
+        }
+
+        int floorAt(int index) {
+            return buffer.getInt(offset(index) + FLOOR_OFFSET);
+        }
+
+        byte directionAt(int index) {
+            return buffer.get(offset(index) + DIRECTION_OFFSET);
+        }
+
+        byte doorOpenAt(int index) {
+            return buffer.get(offset(index) + DOOR_OFFSET);
+        }
+
+        /**
+         * Appends an entry, overwriting the oldest one if the ring is full.
+         */
+        void append(long timestamp, int floor, byte direction, byte doorOpen) {
+            if (isFull()) {
+                removeFirst();
+            }
+            size++;
+            set(size - 1, timestamp, floor, direction, doorOpen);
+        }
+
+        void set(int index, long timestamp, int floor, byte direction, byte doorOpen) {
+            int offset = offset(index);
+            buffer.putLong(offset, timestamp);
+            buffer.putInt(offset + FLOOR_OFFSET, floor);
+            buffer.put(offset + DIRECTION_OFFSET, direction);
+            buffer.put(offset + DOOR_OFFSET, doorOpen);
+        }
+
+        void removeFirst() {
+            start = (start + 1) % capacity;
+            size--;
+        }
+
+        /**
+         * Binary searches for the first entry with a timestamp at or after {@code timestamp}.
+         *
+         * @return The logical index of that entry, or {@link #size()} if there is none.
+         */
+        int firstIndexAtOrAfter(long timestamp) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (timestampAt(mid) < timestamp) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int offset(int index) {
+            return ((start + index) % capacity) * ENTRY_BYTES;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.elevator.models;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ElevatorHistoryManager {
+
+    // A map that stores the state history of every elevator, where the key is the elevator ID (Integer)
+    // and the value is the corresponding ElevatorHistory object.
+    private final Map<Integer, ElevatorHistory> histories;
+
+    public ElevatorHistoryManager(ElevatorManager elevatorManager,
+                                  @Value("${elevator.history.capacity}") int capacity,
+                                  @Value("${elevator.history.downsampled-capacity}") int downsampledCapacity,
+                                  @Value("${elevator.history.resolution-seconds}") long resolutionSeconds) {
+        requirePositive("elevator.history.capacity", capacity);
+        requirePositive("elevator.history.downsampled-capacity", downsampledCapacity);
+        requirePositive("elevator.history.resolution-seconds", resolutionSeconds);
+        this.histories = new HashMap<>();
+        long now = System.currentTimeMillis();
+        for (Elevator elevator : elevatorManager.getAllElevators().values()) {
+            ElevatorHistory history = new ElevatorHistory(capacity, downsampledCapacity, TimeUnit.SECONDS.toMillis(resolutionSeconds));
+            history.record(now, elevator);
+            histories.put(elevator.getId(), history);
+        }
+    }
+
+    /**
+     * Records the current state of the elevator if it has changed since the last recorded state.
+     *
+     * @param elevator The elevator to record.
+     */
+    public void record(Elevator elevator) {
+        getHistory(elevator.getId()).record(System.currentTimeMillis(), elevator);
+    }
+
+    /**
+     * Retrieves the recorded states of the elevator within a time range,
+     * starting with the state the elevator was in at {@code from}.
+     *
+     * @param id   The ID of the elevator.
+     * @param from The start of the range in milliseconds since the epoch (inclusive).
+     * @param to   The end of the range in milliseconds since the epoch (inclusive).
+     * @return The recorded states within the range, oldest first.
+     * @throws IllegalArgumentException If the elevator ID is invalid or the range is empty.
+     */
+    public List<ElevatorSnapshot> getRange(int id, long from, long to) {
+        if (from > to) {
+            throw new IllegalArgumentException("'from' must not be after 'to'.");
+        }
+        return getHistory(id).getRange(from, to);
+    }
+
+    /**
+     * Fails startup on a non-positive setting, which would otherwise only surface as an arithmetic error
+     * once a ring first fills, after the elevator has already been mutated.
+     *
+     * @param property The name of the property being checked.
+     * @param value    The configured value.
+     * @throws IllegalArgumentException If the value is not positive.
+     */
+    private static void requirePositive(String property, long value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(property + " must be positive but was " + value + ".");
+        }
+    }
+
+    private ElevatorHistory getHistory(int id) {
+        if (!histories.containsKey(id)) {
+            throw new IllegalArgumentException("Invalid elevator ID: " + id);
+        }
+        return histories.get(id);
+    }
+}
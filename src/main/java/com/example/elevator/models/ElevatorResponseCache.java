@@ -0,0 +1,77 @@
+package com.example.elevator.models;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the serialized state of each elevator per version and derives the ETags of polled responses.
+ * A poll whose If-None-Match matches the current version is answered with 304 without serializing anything,
+ * and a poll of an unchanged elevator reuses the bytes serialized for the previous poll.
+ */
+@Component
+public class ElevatorResponseCache {
+
+    private final ObjectMapper objectMapper;
+
+    // Distinguishes ETags of this run from those handed out before a restart, when versions start over.
+    private final String epoch;
+
+    // The last serialized response of every elevator, where the key is the elevator ID (Integer).
+    private final Map<Integer, CachedResponse> responses = new ConcurrentHashMap<>();
+
+    public ElevatorResponseCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.epoch = Long.toHexString(System.currentTimeMillis());
+    }
+
+    public String getElevatorETag(int id, long version) {
+        return epoch + "-" + id + "-" + version;
+    }
+
+    public String getCountETag(int count) {
+        return epoch + "-count-" + count;
+    }
+
+    /**
+     * Returns the JSON representation of the elevator, serializing it only if the version has changed.
+     * The version must be read before calling this method, so that a concurrent mutation can at worst
+     * cache newer state under an older version, which the next poll then replaces.
+     *
+     * @param elevator The elevator to serialize.
+     * @param version  The version of the elevator read before serializing.
+     * @return The serialized elevator.
+     */
+    public byte[] getElevatorBody(Elevator elevator, long version) {
+        CachedResponse cached = responses.get(elevator.getId());
+        if (cached != null && cached.version == version) {
+            return cached.body;
+        }
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(elevator);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize elevator " + elevator.getId(), e);
+        }
+        responses.put(elevator.getId(), new CachedResponse(version, body));
+        return body;
+    }
+
+    private static class CachedResponse {
+
+        // The elevator version the body was serialized at.
+        private final long version;
+
+        // The serialized elevator.
+        private final byte[] body;
+
+        private CachedResponse(long version, byte[] body) {
+            this.version = version;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.elevator.models;
+
+import com.example.elevator.constants.ElevatorDirection;
+
+public class ElevatorSnapshot {
+
+    // The time the elevator entered this state, in milliseconds since the epoch.
+    private final long timestamp;
+
+    // The floor where the elevator was located.
+    private final int floor;
+
+    // The direction of the elevator (UP, DOWN, or NONE).
+    private final ElevatorDirection direction;
+
+    // Indicates whether the elevator door was open (true) or closed (false).
+    private final boolean isDoorOpen;
+
+    public ElevatorSnapshot(long timestamp, int floor, ElevatorDirection direction, boolean isDoorOpen) {
+        this.timestamp = timestamp;
+        this.floor = floor;
+        this.direction = direction;
+        this.isDoorOpen = isDoorOpen;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int getFloor() {
+        return floor;
+    }
+
+    public ElevatorDirection getDirection() {
+        return direction;
+    }
+
+    public boolean isDoorOpen() {
+        return isDoorOpen;
+    }
+
+    @Override
+    public String toString() {
+        return "ElevatorSnapshot{" +
+                "timestamp=" + timestamp +
+                ", floor=" + floor +
+                ", direction=" + direction +
+                ", isDoorOpen=" + isDoorOpen +
+                '}';
+    }
+}
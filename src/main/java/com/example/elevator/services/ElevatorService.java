@@ -2,6 +2,9 @@ package com.example.elevator.services;
 
 import com.example.elevator.constants.ElevatorDirection;
 import com.example.elevator.models.Elevator;
+import com.example.elevator.models.ElevatorSnapshot;
+
+import java.util.List;
 
 /**
  * Service interface for managing elevator operations.
@@ -74,4 +77,18 @@ public interface ElevatorService {
         Elevator resetElevatorById(int id);
 
         int getNumberOfElevators();
+
+        /**
+         * Retrieves the recorded position, direction and door states of the specified elevator within a time range.
+         * Older states are downsampled to the last state of each resolution bucket.
+         * The state the elevator was in at {@code from} is always included, so the first entry
+         * may be timestamped before {@code from}; a range without changes returns just that state.
+         *
+         * @param id   The ID of the elevator.
+         * @param from The start of the range in milliseconds since the epoch (inclusive).
+         * @param to   The end of the range in milliseconds since the epoch (inclusive).
+         * @return The recorded states within the range, oldest first.
+         * @throws IllegalArgumentException If the elevator ID is invalid or {@code from} is after {@code to}.
+         */
+        List<ElevatorSnapshot> getElevatorHistory(int id, long from, long to);
 }
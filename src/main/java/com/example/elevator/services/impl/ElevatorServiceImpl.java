@@ -2,12 +2,17 @@ package com.example.elevator.services.impl;
 
 import com.example.elevator.constants.ElevatorDirection;
 import com.example.elevator.models.Elevator;
+import com.example.elevator.models.ElevatorHistoryManager;
 import com.example.elevator.models.ElevatorManager;
 import com.example.elevator.models.ElevatorQueueItem;
+import com.example.elevator.models.ElevatorSnapshot;
 import com.example.elevator.services.ElevatorService;
+import com.example.elevator.telemetry.HallCallTracker;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * Implementation of the ElevatorService that manages the state and movement of an elevator.
  * It handles elevator requests, movement logic, and door operations.
@@ -17,6 +22,12 @@ public class ElevatorServiceImpl implements ElevatorService {
     @Autowired
     private ElevatorManager elevatorManager;
 
+    @Autowired
+    private ElevatorHistoryManager elevatorHistoryManager;
+
+    @Autowired
+    private HallCallTracker hallCallTracker;
+
     /**
      * Retrieves the current state of the elevator.
      *
@@ -32,6 +43,7 @@ public class ElevatorServiceImpl implements ElevatorService {
      * Requests the elevator to go to a specific floor with a given direction.
      * If the elevator is idle, it sets the direction and adds the floor to the queue.
      * If the elevator is already moving, it adds the floor to the queue without changing the direction.
+     * Calls dropped from the queue of an idle elevator are discarded from the hall call tracker.
      *
      * @param id        The ID of the elevator.
      * @param floor     The floor number to request.
@@ -40,14 +52,27 @@ public class ElevatorServiceImpl implements ElevatorService {
     @Override
     public void requestElevator(int id, int floor, ElevatorDirection direction) {
         Elevator elevator = elevatorManager.getElevator(id);
+        // Reject invalid floors before the idle branch changes the direction or clears the queue.
+        Elevator.validateFloor(floor);
         if (elevator.getDirection() == ElevatorDirection.NONE) {
             elevator.setDirection(getDirection(floor, elevator.getCurrentFloor()));
+            hallCallTracker.assigned(id, floor);
+            for (ElevatorQueueItem item : elevator.getQueue()) {
+                if (item.getFloor() != floor) {
+                    hallCallTracker.discard(id, item.getFloor());
+                }
+            }
             elevator.clearQueue();
             elevator.addToQueue(floor, direction);
+            hallCallTracker.queued(id, floor);
             elevator.setDoorOpen(false);
         } else {
+            // A moving elevator keeps its direction, so taking the floor on the way is the whole decision.
+            hallCallTracker.assigned(id, floor);
             elevator.addToQueue(floor, direction);
+            hallCallTracker.queued(id, floor);
         }
+        elevatorHistoryManager.record(elevator);
     }
 
     /**
@@ -71,6 +96,7 @@ public class ElevatorServiceImpl implements ElevatorService {
     public void openDoor(int id) {
         Elevator elevator = elevatorManager.getElevator(id);
         elevator.setDoorOpen(true);
+        elevatorHistoryManager.record(elevator);
     }
 
     /**
@@ -82,6 +108,7 @@ public class ElevatorServiceImpl implements ElevatorService {
     public void closeDoor(int id) {
         Elevator elevator = elevatorManager.getElevator(id);
         elevator.setDoorOpen(false);
+        elevatorHistoryManager.record(elevator);
     }
 
     /**
@@ -102,7 +129,9 @@ public class ElevatorServiceImpl implements ElevatorService {
         int nextFloor = getNextFloor(elevator);
         if (shouldStopAtFloor(elevator, nextFloor)) {
             elevator.setCurrentFloor(nextFloor);
+            hallCallTracker.arrived(id, nextFloor);
             elevator.setDoorOpen(true);
+            hallCallTracker.doorOpened(id, nextFloor);
             elevator.removeQueue(elevator.getQueue().stream()
                     .filter(item -> item.getFloor() == nextFloor)
                     .findFirst()
@@ -111,6 +140,7 @@ public class ElevatorServiceImpl implements ElevatorService {
         } else {
             elevator.setCurrentFloor(nextFloor);
         }
+        elevatorHistoryManager.record(elevator);
 
         return elevator;
     }
@@ -127,7 +157,9 @@ public class ElevatorServiceImpl implements ElevatorService {
         elevator.setCurrentFloor(1);
         elevator.setDirection(ElevatorDirection.NONE);
         elevator.clearQueue();
+        hallCallTracker.discardAll(id);
         elevator.setDoorOpen(false);
+        elevatorHistoryManager.record(elevator);
         return elevator;
     }
 
@@ -136,6 +168,20 @@ public class ElevatorServiceImpl implements ElevatorService {
         return elevatorManager.getAllElevators().size();
     }
 
+    /**
+     * Retrieves the recorded states of the elevator within a time range,
+     * starting with the state the elevator was in at {@code from}.
+     *
+     * @param id   The ID of the elevator.
+     * @param from The start of the range in milliseconds since the epoch (inclusive).
+     * @param to   The end of the range in milliseconds since the epoch (inclusive).
+     * @return The recorded states within the range, oldest first.
+     */
+    @Override
+    public List<ElevatorSnapshot> getElevatorHistory(int id, long from, long to) {
+        return elevatorHistoryManager.getRange(id, from, to);
+    }
+
     /**
      * Calculates the next floor based on the elevator's current direction.
      *
@@ -0,0 +1,208 @@
+package com.example.elevator.telemetry;
+
+import com.example.elevator.constants.CallPhase;
+import com.example.elevator.constants.ElevatorDirection;
+import com.example.elevator.telemetry.events.CallAssignedEvent;
+import com.example.elevator.telemetry.events.CallQueuedEvent;
+import com.example.elevator.telemetry.events.CallReceivedEvent;
+import com.example.elevator.telemetry.events.CarArrivedEvent;
+import com.example.elevator.telemetry.events.DoorOpenedEvent;
+import com.example.elevator.telemetry.events.HallCallEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Follows each hall call from the moment its request enters the filter chain until the elevator opens its door
+ * at the floor. Every step is emitted as a JDK Flight Recorder event tied together by a call ID, and the time
+ * spent in each {@link CallPhase} of completed calls is kept in a rolling window for percentile reporting:
+ * HTTP (request start to handler), DISPATCH (handler to direction decision), QUEUE (decision to queue insertion),
+ * TRAVEL (insertion to arrival) and TOTAL (request start to door opening).
+ * The simulator opens the door in the same step the car arrives, so arrival to door opening is not reported as a phase.
+ * When telemetry is disabled every method returns immediately.
+ */
+@Component
+public class HallCallTracker {
+
+    // Whether hall calls are tracked at all.
+    private final boolean enabled;
+
+    // The source of call IDs.
+    private final AtomicLong callIds = new AtomicLong();
+
+    // The calls that have not opened a door yet, keyed by elevator ID and floor.
+    // The elevator queue holds at most one item per floor, so repeated calls to a floor are merged.
+    private final Map<Long, HallCall> pendingCalls = new ConcurrentHashMap<>();
+
+    // The rolling latency window of every phase.
+    private final Map<CallPhase, LatencyWindow> windows = new EnumMap<>(CallPhase.class);
+
+    public HallCallTracker(@Value("${elevator.telemetry.enabled}") boolean enabled,
+                           @Value("${elevator.telemetry.window-seconds}") long windowSeconds,
+                           @Value("${elevator.telemetry.window-size}") int windowSize) {
+        this.enabled = enabled;
+        for (CallPhase phase : CallPhase.values()) {
+            windows.put(phase, new LatencyWindow(windowSize, TimeUnit.SECONDS.toNanos(windowSeconds)));
+        }
+    }
+
+    /**
+     * Starts a call when the request handler is entered, or joins the pending call to the same floor.
+     * A {@code requestStartedAt} of 0 means the request start is unknown and counts as the handler entry.
+     */
+    public void received(int elevatorId, int floor, ElevatorDirection direction, long requestStartedAt) {
+        if (!enabled) {
+            return;
+        }
+        HallCall call = pendingCalls.computeIfAbsent(key(elevatorId, floor), key -> {
+            long now = System.nanoTime();
+            return new HallCall(callIds.incrementAndGet(), requestStartedAt == 0 ? now : requestStartedAt, now);
+        });
+        CallReceivedEvent event = new CallReceivedEvent();
+        event.direction = direction.name();
+        commit(event, call, elevatorId, floor);
+    }
+
+    /**
+     * Marks the call at the given floor as inserted into the elevator queue.
+     */
+    public void queued(int elevatorId, int floor) {
+        if (!enabled) {
+            return;
+        }
+        HallCall call = pendingCalls.get(key(elevatorId, floor));
+        if (call != null && call.queuedAt == 0) {
+            call.queuedAt = System.nanoTime();
+            commit(new CallQueuedEvent(), call, elevatorId, floor);
+        }
+    }
+
+    /**
+     * Marks the dispatch decision for the call at the given floor as made.
+     */
+    public void assigned(int elevatorId, int floor) {
+        if (!enabled) {
+            return;
+        }
+        HallCall call = pendingCalls.get(key(elevatorId, floor));
+        if (call != null && call.assignedAt == 0) {
+            call.assignedAt = System.nanoTime();
+            commit(new CallAssignedEvent(), call, elevatorId, floor);
+        }
+    }
+
+    /**
+     * Marks the elevator as arrived at the floor of the call.
+     */
+    public void arrived(int elevatorId, int floor) {
+        if (!enabled) {
+            return;
+        }
+        HallCall call = pendingCalls.get(key(elevatorId, floor));
+        if (call != null) {
+            call.arrivedAt = System.nanoTime();
+            commit(new CarArrivedEvent(), call, elevatorId, floor);
+        }
+    }
+
+    /**
+     * Completes the call at the given floor and records the time spent in each of its phases.
+     * Steps that never happened take the time of the step before them, so they count as zero time.
+     *
+     * @param elevatorId The ID of the elevator.
+     * @param floor      The floor where the door opened.
+     */
+    public void doorOpened(int elevatorId, int floor) {
+        if (!enabled) {
+            return;
+        }
+        HallCall call = pendingCalls.remove(key(elevatorId, floor));
+        if (call == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        commit(new DoorOpenedEvent(), call, elevatorId, floor);
+
+        long assignedAt = call.assignedAt == 0 ? call.receivedAt : call.assignedAt;
+        long queuedAt = call.queuedAt == 0 ? assignedAt : call.queuedAt;
+        long arrivedAt = call.arrivedAt == 0 ? now : call.arrivedAt;
+        windows.get(CallPhase.HTTP).record(call.receivedAt - call.requestStartedAt, now);
+        windows.get(CallPhase.DISPATCH).record(assignedAt - call.receivedAt, now);
+        windows.get(CallPhase.QUEUE).record(queuedAt - assignedAt, now);
+        windows.get(CallPhase.TRAVEL).record(arrivedAt - queuedAt, now);
+        windows.get(CallPhase.TOTAL).record(now - call.requestStartedAt, now);
+    }
+
+    /**
+     * Forgets the pending call at the given floor, e.g. when it was rejected or dropped from the queue.
+     *
+     * @param elevatorId The ID of the elevator.
+     * @param floor      The floor of the call.
+     */
+    public void discard(int elevatorId, int floor) {
+        if (enabled) {
+            pendingCalls.remove(key(elevatorId, floor));
+        }
+    }
+
+    /**
+     * Forgets every pending call of the given elevator, e.g. when it is reset.
+     *
+     * @param elevatorId The ID of the elevator.
+     */
+    public void discardAll(int elevatorId) {
+        if (enabled) {
+            pendingCalls.keySet().removeIf(key -> (int) (key >>> 32) == elevatorId);
+        }
+    }
+
+    /**
+     * Reports the latency percentiles of every phase over the rolling window.
+     *
+     * @return The latency summary of each phase, in phase order.
+     */
+    public Map<CallPhase, PhaseLatency> getLatencies() {
+        long now = System.nanoTime();
+        Map<CallPhase, PhaseLatency> latencies = new LinkedHashMap<>();
+        windows.forEach((phase, window) -> latencies.put(phase, window.snapshot(now)));
+        return latencies;
+    }
+
+    private static long key(int elevatorId, int floor) {
+        return ((long) elevatorId << 32) | (floor & 0xFFFFFFFFL);
+    }
+
+    private static void commit(HallCallEvent event, HallCall call, int elevatorId, int floor) {
+        if (event.shouldCommit()) {
+            event.callId = call.callId;
+            event.elevatorId = elevatorId;
+            event.floor = floor;
+            event.commit();
+        }
+    }
+
+    private static class HallCall {
+
+        // The ID shared by every event of this call.
+        private final long callId;
+
+        // The System.nanoTime() value at which each step happened, or 0 if it has not happened yet.
+        private final long requestStartedAt;
+        private final long receivedAt;
+        private volatile long assignedAt;
+        private volatile long queuedAt;
+        private volatile long arrivedAt;
+
+        private HallCall(long callId, long requestStartedAt, long receivedAt) {
+            this.callId = callId;
+            this.requestStartedAt = requestStartedAt;
+            this.receivedAt = receivedAt;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.elevator.telemetry;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size ring buffer of latency samples that only reports on samples younger than the window.
+ */
+class LatencyWindow {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    // The recorded durations and the time each one was recorded at, both in nanoseconds.
+    private final long[] durations;
+    private final long[] recordedAt;
+
+    // How long a sample stays inside the window, in nanoseconds.
+    private final long windowNanos;
+
+    // The slot the next sample is written to, and the number of slots in use.
+    private int next;
+    private int size;
+
+    LatencyWindow(int capacity, long windowNanos) {
+        this.durations = new long[capacity];
+        this.recordedAt = new long[capacity];
+        this.windowNanos = windowNanos;
+    }
+
+    synchronized void record(long durationNanos, long now) {
+        durations[next] = durationNanos;
+        recordedAt[next] = now;
+        next = (next + 1) % durations.length;
+        if (size < durations.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Computes the percentiles of the samples recorded within the window ending at {@code now}.
+     *
+     * @param now The current {@link System#nanoTime()} value.
+     * @return The latency summary of the window.
+     */
+    PhaseLatency snapshot(long now) {
+        long[] samples = new long[durations.length];
+        int count = 0;
+        synchronized (this) {
+            for (int i = 0; i < size; i++) {
+                if (now - recordedAt[i] <= windowNanos) {
+                    samples[count++] = durations[i];
+                }
+            }
+        }
+        if (count == 0) {
+            return new PhaseLatency(0, 0, 0, 0, 0);
+        }
+
+        Arrays.sort(samples, 0, count);
+        return new PhaseLatency(count,
+                percentile(samples, count, 50),
+                percentile(samples, count, 90),
+                percentile(samples, count, 99),
+                samples[count - 1] / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Picks the nearest-rank percentile out of the first {@code count} sorted samples.
+     */
+    private static double percentile(long[] sorted, int count, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.max(rank, 1) - 1] / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.elevator.telemetry;
+
+public class PhaseLatency {
+
+    // The number of samples inside the rolling window.
+    private final int count;
+
+    // The latency percentiles and maximum of the samples, in milliseconds.
+    private final double p50Millis;
+    private final double p90Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    public PhaseLatency(int count, double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+        this.count = count;
+        this.p50Millis = p50Millis;
+        this.p90Millis = p90Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP90Millis() {
+        return p90Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "PhaseLatency{" +
+                "count=" + count +
+                ", p50Millis=" + p50Millis +
+                ", p90Millis=" + p90Millis +
+                ", p99Millis=" + p99Millis +
+                ", maxMillis=" + maxMillis +
+                '}';
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.elevator.telemetry.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.elevator.CallAssigned")
+@Label("Call Assigned")
+@Description("The dispatch decision for a hall call has been made.")
+public class CallAssignedEvent extends HallCallEvent {
+}
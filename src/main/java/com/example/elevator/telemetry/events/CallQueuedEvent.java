@@ -0,0 +1,11 @@
+package com.example.elevator.telemetry.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.elevator.CallQueued")
+@Label("Call Queued")
+@Description("A hall call has been inserted into the elevator queue.")
+public class CallQueuedEvent extends HallCallEvent {
+}
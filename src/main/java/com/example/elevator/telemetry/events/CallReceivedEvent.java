@@ -0,0 +1,14 @@
+package com.example.elevator.telemetry.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.elevator.CallReceived")
+@Label("Call Received")
+@Description("A hall call has been received by the controller.")
+public class CallReceivedEvent extends HallCallEvent {
+
+    @Label("Direction")
+    public String direction;
+}
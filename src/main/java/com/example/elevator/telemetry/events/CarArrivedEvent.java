@@ -0,0 +1,11 @@
+package com.example.elevator.telemetry.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.elevator.CarArrived")
+@Label("Car Arrived")
+@Description("The elevator has arrived at the floor of a hall call.")
+public class CarArrivedEvent extends HallCallEvent {
+}
@@ -0,0 +1,11 @@
+package com.example.elevator.telemetry.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.elevator.DoorOpened")
+@Label("Door Opened")
+@Description("The elevator door has opened for a hall call.")
+public class DoorOpenedEvent extends HallCallEvent {
+}
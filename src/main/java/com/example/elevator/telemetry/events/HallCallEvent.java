@@ -0,0 +1,24 @@
+package com.example.elevator.telemetry.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base class for the Flight Recorder events emitted over the lifetime of a hall call.
+ * Every event of a single call carries the same call ID so a recording can be stitched back together.
+ */
+@Category({"Elevator", "Hall Call"})
+@StackTrace(false)
+public abstract class HallCallEvent extends Event {
+
+    @Label("Call ID")
+    public long callId;
+
+    @Label("Elevator ID")
+    public int elevatorId;
+
+    @Label("Floor")
+    public int floor;
+}
@@ -0,0 +1,54 @@
+package com.example.elevator.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CorsFilterTests {
+
+	@Test
+	void wildcardEchoesPreflightRequestedHeaders() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/elevators/1");
+		request.addHeader("Access-Control-Request-Headers", "if-none-match");
+
+		MockHttpServletResponse response = filter("*", request);
+
+		assertEquals("if-none-match", response.getHeader("Access-Control-Allow-Headers"));
+		assertEquals("Access-Control-Request-Headers", response.getHeader("Vary"));
+		assertEquals("ETag", response.getHeader("Access-Control-Expose-Headers"));
+	}
+
+	@Test
+	void wildcardWithoutRequestedHeadersIsSentAsConfigured() throws Exception {
+		MockHttpServletResponse response = filter("*", new MockHttpServletRequest("GET", "/elevators/1"));
+
+		assertEquals("*", response.getHeader("Access-Control-Allow-Headers"));
+		assertNull(response.getHeader("Vary"));
+	}
+
+	@Test
+	void explicitHeadersAreSentAsConfigured() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/elevators/1");
+		request.addHeader("Access-Control-Request-Headers", "x-other");
+
+		MockHttpServletResponse response = filter("Content-Type,If-None-Match", request);
+
+		assertEquals("Content-Type,If-None-Match", response.getHeader("Access-Control-Allow-Headers"));
+	}
+
+	private static MockHttpServletResponse filter(String allowedHeaders, MockHttpServletRequest request) throws Exception {
+		CorsFilter filter = new CorsFilter();
+		ReflectionTestUtils.setField(filter, "allowedOrigins", "http://localhost:5173");
+		ReflectionTestUtils.setField(filter, "allowedMethods", "GET,POST");
+		ReflectionTestUtils.setField(filter, "allowedHeaders", allowedHeaders);
+		ReflectionTestUtils.setField(filter, "exposedHeaders", "ETag");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+}
@@ -0,0 +1,35 @@
+package com.example.elevator.models;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ElevatorHistoryManagerTests {
+
+	private final ElevatorManager elevatorManager = new ElevatorManager(2);
+
+	@Test
+	void nonPositiveSettingsAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> new ElevatorHistoryManager(elevatorManager, 0, 8, 60));
+		assertThrows(IllegalArgumentException.class, () -> new ElevatorHistoryManager(elevatorManager, 8, 0, 60));
+		assertThrows(IllegalArgumentException.class, () -> new ElevatorHistoryManager(elevatorManager, 8, 8, 0));
+		assertThrows(IllegalArgumentException.class, () -> new ElevatorHistoryManager(elevatorManager, 8, 8, -1));
+	}
+
+	@Test
+	void everyElevatorStartsWithItsInitialState() {
+		ElevatorHistoryManager historyManager = new ElevatorHistoryManager(elevatorManager, 8, 8, 60);
+
+		assertEquals(1, historyManager.getRange(1, 0, Long.MAX_VALUE).size());
+		assertEquals(1, historyManager.getRange(2, 0, Long.MAX_VALUE).size());
+	}
+
+	@Test
+	void invalidRangeAndElevatorAreRejected() {
+		ElevatorHistoryManager historyManager = new ElevatorHistoryManager(elevatorManager, 8, 8, 60);
+
+		assertThrows(IllegalArgumentException.class, () -> historyManager.getRange(1, 10, 5));
+		assertThrows(IllegalArgumentException.class, () -> historyManager.getRange(3, 0, 5));
+	}
+}
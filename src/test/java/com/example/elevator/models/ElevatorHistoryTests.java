@@ -0,0 +1,106 @@
+package com.example.elevator.models;
+
+import com.example.elevator.constants.ElevatorDirection;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElevatorHistoryTests {
+
+	private final Elevator elevator = new Elevator(1);
+
+	@Test
+	void unchangedStateIsNotRecordedTwice() {
+		ElevatorHistory history = new ElevatorHistory(8, 8, 10);
+		history.record(1, elevator);
+		history.record(2, elevator);
+
+		assertEquals(1, history.getRange(0, Long.MAX_VALUE).size());
+	}
+
+	@Test
+	void everyChangedFieldIsRecorded() {
+		ElevatorHistory history = new ElevatorHistory(8, 8, 10);
+		history.record(1, elevator);
+		elevator.setDirection(ElevatorDirection.UP);
+		history.record(2, elevator);
+		elevator.setDoorOpen(true);
+		history.record(3, elevator);
+
+		List<ElevatorSnapshot> snapshots = history.getRange(0, Long.MAX_VALUE);
+
+		assertEquals(3, snapshots.size());
+		assertEquals(ElevatorDirection.UP, snapshots.get(1).getDirection());
+		assertTrue(snapshots.get(2).isDoorOpen());
+	}
+
+	@Test
+	void timestampsAreClampedWhenTheClockStepsBack() {
+		ElevatorHistory history = new ElevatorHistory(8, 8, 10);
+		history.record(100, elevator);
+		elevator.setCurrentFloor(2);
+		history.record(50, elevator);
+
+		List<ElevatorSnapshot> snapshots = history.getRange(0, Long.MAX_VALUE);
+
+		assertEquals(100, snapshots.get(1).getTimestamp());
+		assertEquals(2, snapshots.get(1).getFloor());
+	}
+
+	@Test
+	void evictedEntriesAreDownsampledToTheLastStatePerBucket() {
+		ElevatorHistory history = new ElevatorHistory(2, 8, 10);
+		recordFloors(history, new long[]{1, 5, 8, 12, 25, 26}, new int[]{1, 2, 3, 4, 5, 6});
+
+		List<ElevatorSnapshot> snapshots = history.getRange(0, Long.MAX_VALUE);
+
+		// Bucket 0-9 keeps floor 3 at t=8, bucket 10-19 keeps floor 4, the recent ring keeps t=25 and t=26.
+		assertEquals(List.of(8L, 12L, 25L, 26L), snapshots.stream().map(ElevatorSnapshot::getTimestamp).toList());
+		assertEquals(List.of(3, 4, 5, 6), snapshots.stream().map(ElevatorSnapshot::getFloor).toList());
+	}
+
+	@Test
+	void downsampledRingDropsItsOldestBucketWhenFull() {
+		ElevatorHistory history = new ElevatorHistory(1, 2, 10);
+		recordFloors(history, new long[]{1, 11, 21, 31}, new int[]{1, 2, 3, 4});
+
+		List<ElevatorSnapshot> snapshots = history.getRange(0, Long.MAX_VALUE);
+
+		assertEquals(List.of(11L, 21L, 31L), snapshots.stream().map(ElevatorSnapshot::getTimestamp).toList());
+	}
+
+	@Test
+	void rangeStartsWithTheStateAtFrom() {
+		ElevatorHistory history = new ElevatorHistory(8, 8, 10);
+		recordFloors(history, new long[]{10, 20, 30}, new int[]{1, 2, 3});
+
+		assertEquals(List.of(20L, 30L), timestamps(history.getRange(25, 40)));
+		assertEquals(List.of(20L), timestamps(history.getRange(21, 29)));
+		assertEquals(List.of(20L, 30L), timestamps(history.getRange(20, 30)));
+		assertEquals(List.of(30L), timestamps(history.getRange(100, 200)));
+		assertEquals(List.of(10L), timestamps(history.getRange(0, 15)));
+	}
+
+	@Test
+	void stateAtFromIsTakenFromTheDownsampledRing() {
+		ElevatorHistory history = new ElevatorHistory(2, 8, 10);
+		recordFloors(history, new long[]{5, 15, 25, 35}, new int[]{1, 2, 3, 4});
+
+		assertEquals(List.of(15L, 25L), timestamps(history.getRange(18, 30)));
+		assertEquals(List.of(25L, 35L), timestamps(history.getRange(28, 40)));
+	}
+
+	private void recordFloors(ElevatorHistory history, long[] timestamps, int[] floors) {
+		for (int i = 0; i < timestamps.length; i++) {
+			elevator.setCurrentFloor(floors[i]);
+			history.record(timestamps[i], elevator);
+		}
+	}
+
+	private static List<Long> timestamps(List<ElevatorSnapshot> snapshots) {
+		return snapshots.stream().map(ElevatorSnapshot::getTimestamp).toList();
+	}
+}
@@ -0,0 +1,50 @@
+package com.example.elevator.models;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElevatorResponseCacheTests {
+
+	private final ElevatorResponseCache cache = new ElevatorResponseCache(new ObjectMapper());
+
+	@Test
+	void unchangedVersionReusesTheSerializedBody() {
+		Elevator elevator = new Elevator(1);
+
+		assertSame(cache.getElevatorBody(elevator, elevator.getVersion()),
+				cache.getElevatorBody(elevator, elevator.getVersion()));
+	}
+
+	@Test
+	void newVersionIsSerializedAgain() {
+		Elevator elevator = new Elevator(1);
+		byte[] before = cache.getElevatorBody(elevator, elevator.getVersion());
+		elevator.setDoorOpen(true);
+		byte[] after = cache.getElevatorBody(elevator, elevator.getVersion());
+
+		assertNotSame(before, after);
+		assertTrue(new String(after, StandardCharsets.UTF_8).contains("\"doorOpen\":true"));
+	}
+
+	@Test
+	void versionIsLeftOutOfTheBody() {
+		Elevator elevator = new Elevator(1);
+		String body = new String(cache.getElevatorBody(elevator, elevator.getVersion()), StandardCharsets.UTF_8);
+
+		assertFalse(body.contains("version"));
+	}
+
+	@Test
+	void eTagsDifferPerElevatorAndVersion() {
+		assertNotEquals(cache.getElevatorETag(1, 0), cache.getElevatorETag(1, 1));
+		assertNotEquals(cache.getElevatorETag(1, 0), cache.getElevatorETag(2, 0));
+	}
+}
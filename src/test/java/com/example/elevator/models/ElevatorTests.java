@@ -0,0 +1,45 @@
+package com.example.elevator.models;
+
+import com.example.elevator.constants.ElevatorDirection;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElevatorTests {
+
+	@Test
+	void everyMutatorBumpsTheVersion() {
+		List<Consumer<Elevator>> mutators = List.of(
+				elevator -> elevator.setId(2),
+				elevator -> elevator.setCurrentFloor(3),
+				elevator -> elevator.setDirection(ElevatorDirection.UP),
+				elevator -> elevator.setDoorOpen(true),
+				elevator -> elevator.setQueue(List.of(new ElevatorQueueItem(4, ElevatorDirection.UP))),
+				elevator -> elevator.addToQueue(5, ElevatorDirection.UP),
+				elevator -> elevator.removeQueue(elevator.getQueue().get(0)),
+				elevator -> elevator.removeFirstQueue(),
+				elevator -> elevator.sortQueue(),
+				elevator -> elevator.clearQueue());
+
+		Elevator elevator = new Elevator(1);
+		for (Consumer<Elevator> mutator : mutators) {
+			long version = elevator.getVersion();
+			mutator.accept(elevator);
+			assertTrue(elevator.getVersion() > version);
+		}
+	}
+
+	@Test
+	void rejectedFloorKeepsTheVersion() {
+		Elevator elevator = new Elevator(1);
+
+		assertThrows(IllegalArgumentException.class, () -> elevator.setCurrentFloor(11));
+		assertThrows(IllegalArgumentException.class, () -> elevator.addToQueue(0, ElevatorDirection.UP));
+		assertEquals(0, elevator.getVersion());
+	}
+}
@@ -0,0 +1,80 @@
+package com.example.elevator.models;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistoryRingTests {
+
+	@Test
+	void appendWrapsAroundAndKeepsLogicalOrder() {
+		ElevatorHistory.HistoryRing ring = new ElevatorHistory.HistoryRing(3);
+		for (int i = 1; i <= 5; i++) {
+			ring.append(i * 10L, i, (byte) (i % 3), (byte) (i % 2));
+		}
+
+		assertTrue(ring.isFull());
+		assertEquals(3, ring.size());
+		for (int index = 0; index < 3; index++) {
+			int i = index + 3;
+			assertEquals(i * 10L, ring.timestampAt(index));
+			assertEquals(i, ring.floorAt(index));
+			assertEquals((byte) (i % 3), ring.directionAt(index));
+			assertEquals((byte) (i % 2), ring.doorOpenAt(index));
+		}
+	}
+
+	@Test
+	void removeFirstFreesASlot() {
+		ElevatorHistory.HistoryRing ring = new ElevatorHistory.HistoryRing(2);
+		ring.append(1, 1, (byte) 0, (byte) 0);
+		ring.append(2, 2, (byte) 0, (byte) 0);
+		ring.removeFirst();
+
+		assertFalse(ring.isFull());
+		assertEquals(2, ring.timestampAt(0));
+
+		ring.append(3, 3, (byte) 0, (byte) 0);
+		assertEquals(2, ring.timestampAt(0));
+		assertEquals(3, ring.timestampAt(1));
+	}
+
+	@Test
+	void setOverwritesTheEntryAtALogicalIndex() {
+		ElevatorHistory.HistoryRing ring = new ElevatorHistory.HistoryRing(2);
+		for (int i = 1; i <= 3; i++) {
+			ring.append(i, i, (byte) 0, (byte) 0);
+		}
+		ring.set(1, 9, 7, (byte) 2, (byte) 1);
+
+		assertEquals(2, ring.timestampAt(0));
+		assertEquals(9, ring.timestampAt(1));
+		assertEquals(7, ring.floorAt(1));
+		assertEquals(2, ring.directionAt(1));
+		assertEquals(1, ring.doorOpenAt(1));
+	}
+
+	@Test
+	void firstIndexAtOrAfterSkipsToFirstOfDuplicates() {
+		ElevatorHistory.HistoryRing ring = new ElevatorHistory.HistoryRing(5);
+		// Wrap once so the search runs over a ring with a non-zero start.
+		ring.append(0, 1, (byte) 0, (byte) 0);
+		ring.append(0, 1, (byte) 0, (byte) 0);
+		for (long timestamp : new long[]{1, 2, 2, 2, 3}) {
+			ring.append(timestamp, 1, (byte) 0, (byte) 0);
+		}
+
+		assertEquals(0, ring.firstIndexAtOrAfter(0));
+		assertEquals(0, ring.firstIndexAtOrAfter(1));
+		assertEquals(1, ring.firstIndexAtOrAfter(2));
+		assertEquals(4, ring.firstIndexAtOrAfter(3));
+		assertEquals(5, ring.firstIndexAtOrAfter(4));
+	}
+
+	@Test
+	void firstIndexAtOrAfterOnEmptyRing() {
+		assertEquals(0, new ElevatorHistory.HistoryRing(4).firstIndexAtOrAfter(10));
+	}
+}
@@ -0,0 +1,42 @@
+package com.example.elevator.services.impl;
+
+import com.example.elevator.constants.ElevatorDirection;
+import com.example.elevator.models.Elevator;
+import com.example.elevator.models.ElevatorSnapshot;
+import com.example.elevator.services.ElevatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class ElevatorServiceImplTests {
+
+	@Autowired
+	private ElevatorService elevatorService;
+
+	@BeforeEach
+	void resetElevator() {
+		elevatorService.resetElevatorById(1);
+	}
+
+	@Test
+	void invalidFloorLeavesElevatorAndHistoryUntouched() {
+		List<ElevatorSnapshot> historyBefore = elevatorService.getElevatorHistory(1, 0, Long.MAX_VALUE);
+
+		assertThrows(IllegalArgumentException.class,
+				() -> elevatorService.requestElevator(1, 11, ElevatorDirection.UP));
+
+		Elevator elevator = elevatorService.getElevator(1);
+		assertEquals(ElevatorDirection.NONE, elevator.getDirection());
+		assertEquals(List.of(), elevator.getQueue());
+		List<ElevatorSnapshot> history = elevatorService.getElevatorHistory(1, 0, Long.MAX_VALUE);
+		assertEquals(historyBefore.size(), history.size());
+		assertEquals(ElevatorDirection.NONE, history.get(history.size() - 1).getDirection());
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.elevator.telemetry;
+
+import com.example.elevator.constants.CallPhase;
+import com.example.elevator.constants.ElevatorDirection;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HallCallTrackerTests {
+
+	private static final long MILLI = 1_000_000L;
+
+	private final HallCallTracker tracker = new HallCallTracker(true, 300, 64);
+
+	@Test
+	void completedCallIsRecordedInEveryPhase() throws InterruptedException {
+		tracker.received(1, 5, ElevatorDirection.UP, System.nanoTime() - 3 * MILLI);
+		tracker.assigned(1, 5);
+		tracker.queued(1, 5);
+		Thread.sleep(5);
+		tracker.arrived(1, 5);
+		tracker.doorOpened(1, 5);
+
+		Map<CallPhase, PhaseLatency> latencies = tracker.getLatencies();
+
+		for (CallPhase phase : CallPhase.values()) {
+			assertEquals(1, latencies.get(phase).getCount(), phase.name());
+		}
+		assertTrue(latencies.get(CallPhase.HTTP).getMaxMillis() >= 3.0);
+		assertTrue(latencies.get(CallPhase.TRAVEL).getMaxMillis() >= 5.0);
+		assertTrue(latencies.get(CallPhase.TOTAL).getMaxMillis() >= 8.0);
+	}
+
+	@Test
+	void missingStepsCountAsZeroTime() throws InterruptedException {
+		tracker.received(1, 5, ElevatorDirection.UP, 0);
+		Thread.sleep(5);
+		tracker.doorOpened(1, 5);
+
+		Map<CallPhase, PhaseLatency> latencies = tracker.getLatencies();
+
+		assertEquals(0.0, latencies.get(CallPhase.HTTP).getMaxMillis());
+		assertEquals(0.0, latencies.get(CallPhase.DISPATCH).getMaxMillis());
+		assertEquals(0.0, latencies.get(CallPhase.QUEUE).getMaxMillis());
+		assertTrue(latencies.get(CallPhase.TRAVEL).getMaxMillis() >= 5.0);
+	}
+
+	@Test
+	void repeatedCallsToTheSameFloorAreMerged() {
+		tracker.received(1, 5, ElevatorDirection.UP, 0);
+		tracker.received(1, 5, ElevatorDirection.UP, 0);
+		tracker.doorOpened(1, 5);
+		tracker.doorOpened(1, 5);
+
+		assertEquals(1, tracker.getLatencies().get(CallPhase.TOTAL).getCount());
+	}
+
+	@Test
+	void discardedCallIsNotRecorded() {
+		tracker.received(1, 11, ElevatorDirection.UP, 0);
+		tracker.discard(1, 11);
+		tracker.doorOpened(1, 11);
+
+		assertEquals(0, tracker.getLatencies().get(CallPhase.TOTAL).getCount());
+	}
+
+	@Test
+	void discardAllOnlyForgetsCallsOfThatElevator() {
+		tracker.received(1, 3, ElevatorDirection.UP, 0);
+		tracker.received(1, 5, ElevatorDirection.DOWN, 0);
+		tracker.received(2, 3, ElevatorDirection.UP, 0);
+		tracker.discardAll(1);
+		tracker.doorOpened(1, 3);
+		tracker.doorOpened(1, 5);
+		tracker.doorOpened(2, 3);
+
+		assertEquals(1, tracker.getLatencies().get(CallPhase.TOTAL).getCount());
+	}
+
+	@Test
+	void disabledTrackerRecordsNothing() {
+		HallCallTracker disabled = new HallCallTracker(false, 300, 64);
+		disabled.received(1, 5, ElevatorDirection.UP, 0);
+		disabled.doorOpened(1, 5);
+
+		assertEquals(0, disabled.getLatencies().get(CallPhase.TOTAL).getCount());
+	}
+}
@@ -0,0 +1,73 @@
+package com.example.elevator.telemetry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyWindowTests {
+
+	private static final long MILLI = 1_000_000L;
+
+	@Test
+	void emptyWindowReportsZeros() {
+		PhaseLatency latency = new LatencyWindow(8, 1_000 * MILLI).snapshot(0);
+
+		assertEquals(0, latency.getCount());
+		assertEquals(0.0, latency.getP50Millis());
+		assertEquals(0.0, latency.getMaxMillis());
+	}
+
+	@Test
+	void percentilesUseNearestRank() {
+		LatencyWindow window = new LatencyWindow(128, 1_000 * MILLI);
+		for (int i = 100; i >= 1; i--) {
+			window.record(i * MILLI, 0);
+		}
+
+		PhaseLatency latency = window.snapshot(0);
+
+		assertEquals(100, latency.getCount());
+		assertEquals(50.0, latency.getP50Millis());
+		assertEquals(90.0, latency.getP90Millis());
+		assertEquals(99.0, latency.getP99Millis());
+		assertEquals(100.0, latency.getMaxMillis());
+	}
+
+	@Test
+	void singleSampleIsEveryPercentile() {
+		LatencyWindow window = new LatencyWindow(8, 1_000 * MILLI);
+		window.record(7 * MILLI, 0);
+
+		PhaseLatency latency = window.snapshot(0);
+
+		assertEquals(1, latency.getCount());
+		assertEquals(7.0, latency.getP50Millis());
+		assertEquals(7.0, latency.getP99Millis());
+	}
+
+	@Test
+	void samplesOlderThanTheWindowAreExcluded() {
+		LatencyWindow window = new LatencyWindow(8, 100 * MILLI);
+		window.record(50 * MILLI, 0);
+		window.record(10 * MILLI, 150 * MILLI);
+
+		PhaseLatency latency = window.snapshot(200 * MILLI);
+
+		assertEquals(1, latency.getCount());
+		assertEquals(10.0, latency.getMaxMillis());
+	}
+
+	@Test
+	void fullBufferOverwritesOldestSamples() {
+		LatencyWindow window = new LatencyWindow(4, 1_000 * MILLI);
+		for (int i = 1; i <= 6; i++) {
+			window.record(i * MILLI, 0);
+		}
+
+		PhaseLatency latency = window.snapshot(0);
+
+		assertEquals(4, latency.getCount());
+		assertEquals(4.0, latency.getP50Millis());
+		assertEquals(6.0, latency.getMaxMillis());
+	}
+}